@@ -12,24 +12,55 @@ import java.util.List;
 /**
  * Manages all database operations, including initialization,
  * and CRUD (Create, Read, Update, Delete) for Movies and Reviews.
+ * Works with any JDBC database (e.g. the MySQL server); the connection
+ * settings come from database/db.properties via RepositoryFactory.
  */
-public class DatabaseManager {
-    
-    // --- Database Connection Details ---
-    private static final String URL = "jdbc:mysql://localhost:3306/movies";
-    private static final String USER = "morax";
-    private static final String PASSWORD = "morax123";
+public class DatabaseManager implements ReviewRepository {
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    // When false, per-operation messages are suppressed (used by the load generator)
+    private boolean verbose = true;
+
+    // Most recent insert failure, kept so quiet callers can still report the cause
+    private volatile String lastInsertError = null;
 
     /**
-     * Constructor for the DatabaseManager.
-     * Attempts to load the MySQL driver and initialize the database.
+     * Connects to the database at the given JDBC URL and creates the
+     * tables from database/schema.sql if they don't exist yet.
      */
-    public DatabaseManager() {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            initializeDatabase();
-        } catch (ClassNotFoundException e) {
-            System.out.println("⚠️ MySQL Driver not found! Make sure the mysql-connector-j JAR is in your pom.xml.");
+    public DatabaseManager(String url, String user, String password) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        initializeDatabase();
+    }
+
+    /**
+     * Enables or disables the success messages printed after each operation.
+     * Errors are always printed, except insert errors, which insertReview
+     * reports through its return value and getLastInsertError instead.
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * @return The message of the most recent failed insertReview, or null if none failed.
+     */
+    public String getLastInsertError() {
+        return lastInsertError;
+    }
+
+    private Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    private void log(String message) {
+        if (verbose) {
+            System.out.println(message);
         }
     }
 
@@ -38,7 +69,7 @@ public class DatabaseManager {
      */
     private void initializeDatabase() {
         // 'try-with-resources' automatically closes the connection when done.
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD)) {
+        try (Connection conn = getConnection()) {
             if (!tableExists(conn, "movies") || !tableExists(conn, "reviews")) {
                 System.out.println("⚠️ Tables not found, running schema.sql...");
                 runSqlFile(conn, "database/schema.sql");
@@ -96,9 +127,10 @@ public class DatabaseManager {
      * @param title The title of the new movie.
      * @return The newly created Movie object (with its new ID), or null if it failed.
      */
+    @Override
     public Movie createMovie(String title) {
         String query = "INSERT INTO movies (title) VALUES (?)";
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             
             stmt.setString(1, title);
@@ -108,7 +140,7 @@ public class DatabaseManager {
                 try (ResultSet rs = stmt.getGeneratedKeys()) {
                     if (rs.next()) {
                         int newId = rs.getInt(1);
-                        System.out.println("✅ Movie created with ID: " + newId);
+                        log("✅ Movie created with ID: " + newId);
                         return new Movie(newId, title);
                     }
                 }
@@ -123,10 +155,11 @@ public class DatabaseManager {
      * Retrieves all movies from the 'movies' table.
      * @return A list of Movie objects.
      */
+    @Override
     public List<Movie> getAllMovies() {
         List<Movie> movies = new ArrayList<>();
         String query = "SELECT * FROM movies";
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Connection conn = getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(query)) {
 
@@ -146,19 +179,26 @@ public class DatabaseManager {
 
     /**
      * Inserts a review, now including the movie_id.
+     * @return true if the review was saved.
      */
-    public void insertReview(MovieReview review) {
+    @Override
+    public boolean insertReview(MovieReview review) {
         String query = "INSERT INTO reviews (movie_id, review, sentiment) VALUES (?, ?, ?)";
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
             stmt.setInt(1, review.getMovieId());
             stmt.setString(2, review.getText());
             stmt.setString(3, review.getSentiment());
-            stmt.executeUpdate();
-            System.out.println("✅ Review saved to DB!");
+            boolean saved = stmt.executeUpdate() > 0;
+            if (saved) {
+                log("✅ Review saved to DB!");
+            }
+            return saved;
         } catch (SQLException e) {
-            System.out.println("❌ DB Insert Error: " + e.getMessage());
+            lastInsertError = e.getMessage();
+            log("❌ DB Insert Error: " + e.getMessage());
+            return false;
         }
     }
 
@@ -167,10 +207,11 @@ public class DatabaseManager {
      * @param movieId The ID of the movie to get reviews for.
      * @return A list of MovieReview objects.
      */
+    @Override
     public List<MovieReview> getAllReviews(int movieId) {
         List<MovieReview> reviews = new ArrayList<>();
         String query = "SELECT * FROM reviews WHERE movie_id = ?";
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
             stmt.setInt(1, movieId);
@@ -193,15 +234,16 @@ public class DatabaseManager {
     /**
      * Updates an existing review by its unique ID.
      */
+    @Override
     public void updateReview(int id, String newText, String newSentiment) {
         String query = "UPDATE reviews SET review=?, sentiment=? WHERE id=?";
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             stmt.setString(1, newText);
             stmt.setString(2, newSentiment);
             stmt.setInt(3, id);
             stmt.executeUpdate();
-            System.out.println("✅ Review updated!");
+            log("✅ Review updated!");
         } catch (SQLException e) {
             System.out.println("❌ DB Update Error: " + e.getMessage());
         }
@@ -210,13 +252,14 @@ public class DatabaseManager {
     /**
      * Deletes an existing review by its unique ID.
      */
+    @Override
     public void deleteReview(int id) {
         String query = "DELETE FROM reviews WHERE id=?";
-        try (Connection conn = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             stmt.setInt(1, id);
             stmt.executeUpdate();
-            System.out.println("✅ Review deleted!");
+            log("✅ Review deleted!");
         } catch (SQLException e) {
             System.out.println("❌ DB Delete Error: " + e.getMessage());
         }
@@ -0,0 +1,45 @@
+package com.morax.sentiment;
+
+import java.nio.file.Paths;
+
+/**
+ * In-process storage backend using an embedded H2 database in MySQL
+ * compatibility mode. It runs inside the JVM, so there is no network hop
+ * and no external database server to install.
+ *
+ * The schema and seed data are loaded from database/schema.sql and
+ * database/data.sql the first time the database is opened, exactly like
+ * for any other DatabaseManager.
+ */
+public class EmbeddedDatabaseManager extends DatabaseManager {
+
+    public static final String DEFAULT_LOCATION = "mem:movies";
+
+    private static final String USER = "sa";
+    private static final String PASSWORD = "";
+
+    /**
+     * Creates an in-memory database that lives as long as the JVM.
+     */
+    public EmbeddedDatabaseManager() {
+        this(DEFAULT_LOCATION);
+    }
+
+    /**
+     * @param location Either "mem:<name>" for an in-memory database, or a
+     *                 file path (e.g. "data/movies") for a persistent one.
+     */
+    public EmbeddedDatabaseManager(String location) {
+        super(toUrl(location), USER, PASSWORD);
+    }
+
+    private static String toUrl(String location) {
+        // H2 rejects implicitly relative file paths, so resolve them against the working directory
+        String target = location.startsWith("mem:")
+                ? location
+                : "file:" + Paths.get(location).toAbsolutePath().normalize();
+        // DATABASE_TO_LOWER keeps table names lowercase like in MySQL, and
+        // DB_CLOSE_DELAY=-1 keeps the database open between connections.
+        return "jdbc:h2:" + target + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+}
@@ -0,0 +1,79 @@
+package com.morax.sentiment;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw latency samples (in nanoseconds) and computes percentiles.
+ * Not thread-safe: each load worker keeps its own recorder and the
+ * recorders are merged once the run is over.
+ */
+public class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count = 0;
+    private boolean sorted = true;
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    /**
+     * Adds all samples of another recorder to this one.
+     */
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        sorted = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the latency at the given percentile (0-100) using the
+     * nearest-rank method, or 0 if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        // The small epsilon stops rounding error (99.9 / 100 * 2000 = 1998.0000000000002)
+        // from pushing the rank one sample too high
+        int rank = (int) Math.ceil(percentile / 100.0 * count - 1e-9);
+        return samples[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+
+    public long max() {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        return samples[count - 1];
+    }
+
+    public double mean() {
+        if (count == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += samples[i];
+        }
+        return sum / count;
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package com.morax.sentiment;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Synthetic load generator for end-to-end capacity testing.
+ * Drives PredictionService (and optionally the persistence path) with
+ * synthetic reviews and prints a throughput / latency-percentile report.
+ *
+ * In open-loop mode (--rate > 0) requests follow a fixed arrival schedule and
+ * latency is measured from the time a request was SUPPOSED to start, so time
+ * spent queued behind slow requests is counted (coordinated omission correction).
+ * With --rate=0 each worker issues requests back to back (closed loop).
+ *
+ * Usage:
+ *   mvn exec:java -Dexec.mainClass=com.morax.sentiment.LoadGenerator \
+ *       -Dexec.args="--threads=8 --rate=200 --duration=60 --duplicate-ratio=0.1"
+ */
+public class LoadGenerator {
+
+    // Each synthetic word is a single vocab token, and [CLS]/[SEP] take two more,
+    // so this is the longest review the model sees without truncation
+    private static final int MAX_WORDS_SENT = PredictionService.MAX_TOKENS - 2;
+
+    // In-memory H2, so the persistence path runs without a MySQL server
+    private static final String EMBEDDED_DB_LOCATION = "mem:loadtest";
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    // --- Run Configuration ---
+    private int threads = 4;
+    private double rate = 0;            // requests/sec across all workers, 0 = closed loop
+    private int durationSeconds = 30;
+    private int warmupSeconds = 5;
+    private int graceSeconds = 10;      // open loop: max time to drain the backlog after the schedule ends
+    private ReviewSynthesizer.LengthDistribution distribution = ReviewSynthesizer.LengthDistribution.LOGNORMAL;
+    private int minWords = 5;
+    private int maxWords = MAX_WORDS_SENT;
+    private int meanWords = 60;
+    private double duplicateRatio = 0.0;
+    private boolean persist = true;     // also insert each review into the embedded database
+    private long seed = 42;
+    private String reportPath = null;
+    private String modelPath = "ml_model/sentiment_model.onnx";
+    private String tokenizerPath = "ml_model/sentiment_transformer_tokenizer";
+
+    public static void main(String[] args) {
+        LoadGenerator generator = new LoadGenerator();
+        try {
+            generator.parseArgs(args);
+            generator.run();
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠️ Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.out.println("❌ Load Generator Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses --key=value arguments into the run configuration.
+     */
+    private void parseArgs(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            try {
+                switch (key) {
+                    case "threads" -> threads = Integer.parseInt(value);
+                    case "rate" -> rate = Double.parseDouble(value);
+                    case "duration" -> durationSeconds = Integer.parseInt(value);
+                    case "warmup" -> warmupSeconds = Integer.parseInt(value);
+                    case "grace" -> graceSeconds = Integer.parseInt(value);
+                    case "distribution" -> distribution =
+                            ReviewSynthesizer.LengthDistribution.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "min-words" -> minWords = Integer.parseInt(value);
+                    case "max-words" -> maxWords = Integer.parseInt(value);
+                    case "mean-words" -> meanWords = Integer.parseInt(value);
+                    case "duplicate-ratio" -> duplicateRatio = Double.parseDouble(value);
+                    case "persist" -> persist = parseBoolean(key, value);
+                    case "seed" -> seed = Long.parseLong(value);
+                    case "report" -> reportPath = value;
+                    case "model" -> modelPath = value;
+                    case "tokenizer" -> tokenizerPath = value;
+                    default -> throw new IllegalArgumentException("Unknown option: --" + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for --" + key + ": " + value);
+            }
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("--threads must be at least 1");
+        }
+        if (rate < 0) {
+            throw new IllegalArgumentException("--rate must not be negative");
+        }
+        if (warmupSeconds < 0 || durationSeconds <= warmupSeconds) {
+            throw new IllegalArgumentException("--duration must be longer than --warmup");
+        }
+        if (graceSeconds < 0) {
+            throw new IllegalArgumentException("--grace must not be negative");
+        }
+    }
+
+    /**
+     * Accepts only "true" or "false", so typos like --persist=yes are not silently read as false.
+     */
+    private static boolean parseBoolean(String key, String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("Invalid value for --" + key + ": " + value);
+        };
+    }
+
+    private void run() throws IOException {
+        List<String> vocab = ReviewSynthesizer.loadVocab(tokenizerPath + "/vocab.txt");
+        System.out.println("📚 Loaded " + vocab.size() + " words from the tokenizer vocabulary.");
+
+        if (maxWords > MAX_WORDS_SENT) {
+            System.out.printf(Locale.ROOT, "⚠️ Reviews longer than %d words are truncated to %d tokens "
+                    + "before inference, so --max-words=%d only affects the persist path.%n",
+                    MAX_WORDS_SENT, PredictionService.MAX_TOKENS, maxWords);
+        }
+
+        PredictionService predictor = new PredictionService(modelPath, tokenizerPath);
+
+        DatabaseManager repository = null;
+        int movieId = 0;
+        if (persist) {
+            repository = new EmbeddedDatabaseManager(EMBEDDED_DB_LOCATION);
+            repository.setVerbose(false);
+            Movie movie = repository.createMovie("Load Test " + System.currentTimeMillis());
+            if (movie == null) {
+                throw new IOException("Could not create the load test movie in the embedded database");
+            }
+            movieId = movie.getId();
+        }
+
+        System.out.printf(Locale.ROOT, "🚀 Running %s load: %d threads, %s, %ds (%ds warmup)%n",
+                rate > 0 ? "open-loop" : "closed-loop", threads,
+                rate > 0 ? rate + " req/s" : "max rate", durationSeconds, warmupSeconds);
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long intervalNanos = rate > 0 ? Math.max(1, (long) (1_000_000_000L / rate)) : 0;
+        long hardStop = end + TimeUnit.SECONDS.toNanos(graceSeconds);
+        AtomicLong nextRequest = new AtomicLong();
+
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> workerThreads = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab, distribution,
+                    minWords, maxWords, meanWords, duplicateRatio, seed + i);
+            Worker worker = new Worker(predictor::predictSentiment, repository, movieId, synthesizer,
+                    start, measureStart, end, hardStop, intervalNanos, nextRequest);
+            Thread thread = new Thread(worker, "load-worker-" + i);
+            workers.add(worker);
+            workerThreads.add(thread);
+            thread.start();
+        }
+
+        try {
+            boolean draining = false;
+            for (Thread thread : workerThreads) {
+                long untilEnd = TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime());
+                if (untilEnd > 0) {
+                    thread.join(untilEnd);
+                }
+                // Only a real backlog (slots scheduled before the end but not yet claimed)
+                // needs draining; a request that is merely in flight does not
+                boolean backlog = rate > 0 && start + nextRequest.get() * intervalNanos < end;
+                if (thread.isAlive() && backlog && !draining) {
+                    draining = true;
+                    System.out.printf(Locale.ROOT, "⏳ Schedule finished with requests still queued, "
+                            + "draining for at most %ds (--grace)%n", graceSeconds);
+                }
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long missed = 0;
+        LatencyRecorder missedLatency = new LatencyRecorder();
+        if (rate > 0) {
+            // Slots that were never claimed, plus slots claimed after the hard stop
+            long scheduled = (end - start + intervalNanos - 1) / intervalNanos;
+            missed = recordUnclaimed(missedLatency, start, measureStart, hardStop, intervalNanos,
+                    nextRequest.get(), scheduled);
+            for (Worker worker : workers) {
+                missed += worker.missed;
+                missedLatency.merge(worker.missedLatency);
+            }
+        }
+
+        report(workers, repository, measureStart, end, missed, missedLatency);
+    }
+
+    /**
+     * Merges the per-worker results, prints them and optionally writes them as JSON.
+     */
+    private void report(List<Worker> workers, DatabaseManager repository, long measureStart, long end,
+                        long missed, LatencyRecorder missedLatency) throws IOException {
+        LatencyRecorder endToEnd = new LatencyRecorder();
+        LatencyRecorder predict = new LatencyRecorder();
+        LatencyRecorder store = new LatencyRecorder();
+        long predictErrors = 0;
+        long storeErrors = 0;
+        long completed = 0;
+        for (Worker worker : workers) {
+            endToEnd.merge(worker.endToEnd);
+            predict.merge(worker.predict);
+            store.merge(worker.store);
+            predictErrors += worker.predictErrors;
+            storeErrors += worker.storeErrors;
+            completed += worker.completed;
+        }
+
+        long ok = endToEnd.getCount();
+        // Missed slots queued the longest, so leaving them out would cut off the tail
+        endToEnd.merge(missedLatency);
+
+        double elapsedSeconds = (end - measureStart) / 1e9;
+        double throughput = throughput(completed, measureStart, end);
+
+        System.out.println("\n===== 📊 Load Test Report =====");
+        System.out.printf(Locale.ROOT, "Requests: %d ok, %d prediction errors, %d persist errors "
+                + "(scheduled after warmup)%n", ok, predictErrors, storeErrors);
+        if (missed > 0) {
+            System.out.printf(Locale.ROOT, "⚠️ %d scheduled requests were never issued (backlog not drained "
+                    + "within --grace=%ds), the system cannot sustain the target rate.%n", missed, graceSeconds);
+        }
+        String persistError = repository != null ? repository.getLastInsertError() : null;
+        if (storeErrors > 0 && persistError != null) {
+            System.out.println("❌ Last persist error: " + persistError);
+        }
+        if (predictErrors + storeErrors > 0) {
+            System.out.println("⚠️ Failed requests are excluded from the latency table.");
+        }
+        System.out.printf(Locale.ROOT, "Throughput: %.1f reviews/sec (%d completed in the %.2fs measurement window)%n",
+                throughput, completed, elapsedSeconds);
+        if (rate > 0 && throughput < rate * 0.95) {
+            System.out.println("⚠️ Throughput is below the target rate, the system is saturated.");
+        }
+        System.out.printf(Locale.ROOT, "%-12s %10s %10s %10s %10s %10s %10s%n",
+                "Latency(ms)", "mean", "p50", "p90", "p99", "p99.9", "max");
+        printRow(rate > 0 ? "end-to-end*" : "end-to-end", endToEnd);
+        printRow("predict", predict);
+        if (persist) {
+            printRow("persist", store);
+        }
+        if (rate > 0) {
+            System.out.println("* measured from the scheduled start time (corrected for coordinated omission)");
+        }
+        if (missedLatency.getCount() > 0) {
+            System.out.printf(Locale.ROOT, "* includes %d missed requests at a lower-bound latency "
+                    + "(hard stop - scheduled start); the real tail is worse%n", missedLatency.getCount());
+        }
+
+        if (reportPath != null) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("mode", rate > 0 ? "open-loop" : "closed-loop");
+            json.put("threads", threads);
+            json.put("targetRate", rate);
+            json.put("durationSeconds", durationSeconds);
+            json.put("warmupSeconds", warmupSeconds);
+            json.put("distribution", distribution.name().toLowerCase(Locale.ROOT));
+            json.put("duplicateRatio", duplicateRatio);
+            json.put("persist", persist);
+            json.put("requests", ok);
+            json.put("predictErrors", predictErrors);
+            json.put("persistErrors", storeErrors);
+            json.put("lastPersistError", persistError);
+            json.put("missed", missed);
+            json.put("missedInLatencyAsLowerBound", missedLatency.getCount());
+            json.put("completedInWindow", completed);
+            json.put("throughput", throughput);
+            Map<String, Object> latencies = new LinkedHashMap<>();
+            latencies.put("endToEnd", summarize(endToEnd));
+            latencies.put("predict", summarize(predict));
+            if (persist) {
+                latencies.put("persist", summarize(store));
+            }
+            json.put("latencyMillis", latencies);
+
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            try (Writer writer = new FileWriter(reportPath)) {
+                gson.toJson(json, writer);
+            }
+            System.out.println("💾 Report written to " + reportPath);
+        }
+    }
+
+    /**
+     * Successful requests per second that completed inside the measurement window
+     * [measureStart, end], whenever they were scheduled. Counting by completion time
+     * keeps a warmup backlog or dropped slots from skewing the rate.
+     */
+    static double throughput(long completed, long measureStart, long end) {
+        double windowSeconds = (end - measureStart) / 1e9;
+        return windowSeconds > 0 ? completed / windowSeconds : 0;
+    }
+
+    /**
+     * Records slots in [firstUnclaimed, scheduled) that no worker claimed before the
+     * hard stop, each with the lower-bound latency hardStop - intended. Only slots
+     * scheduled after warmup are recorded.
+     * @return The number of unclaimed slots.
+     */
+    static long recordUnclaimed(LatencyRecorder recorder, long start, long measureStart, long hardStop,
+                                long intervalNanos, long firstUnclaimed, long scheduled) {
+        for (long slot = firstUnclaimed; slot < scheduled; slot++) {
+            long intended = start + slot * intervalNanos;
+            if (intended >= measureStart) {
+                recorder.record(hardStop - intended);
+            }
+        }
+        return Math.max(0, scheduled - firstUnclaimed);
+    }
+
+    private void printRow(String label, LatencyRecorder recorder) {
+        System.out.printf(Locale.ROOT, "%-12s %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f%n", label,
+                recorder.mean() / 1e6,
+                recorder.percentile(50) / 1e6,
+                recorder.percentile(90) / 1e6,
+                recorder.percentile(99) / 1e6,
+                recorder.percentile(99.9) / 1e6,
+                recorder.max() / 1e6);
+    }
+
+    private Map<String, Double> summarize(LatencyRecorder recorder) {
+        Map<String, Double> summary = new LinkedHashMap<>();
+        summary.put("mean", recorder.mean() / 1e6);
+        for (double p : PERCENTILES) {
+            summary.put("p" + (p == Math.rint(p) ? String.valueOf((int) p) : String.valueOf(p)),
+                    recorder.percentile(p) / 1e6);
+        }
+        summary.put("max", recorder.max() / 1e6);
+        return summary;
+    }
+
+    /**
+     * One load worker. Latencies of requests scheduled before measureStart are
+     * warmup and not recorded. Package-private so tests can drive it with a stub predictor.
+     */
+    static class Worker implements Runnable {
+        private final Function<String, String> predictor;
+        private final DatabaseManager repository;
+        private final int movieId;
+        private final ReviewSynthesizer synthesizer;
+        private final long start;
+        private final long measureStart;
+        private final long end;
+        private final long hardStop;
+        private final long intervalNanos;
+        private final AtomicLong nextRequest;
+
+        final LatencyRecorder endToEnd = new LatencyRecorder();
+        final LatencyRecorder predict = new LatencyRecorder();
+        final LatencyRecorder store = new LatencyRecorder();
+        final LatencyRecorder missedLatency = new LatencyRecorder();
+        long predictErrors = 0;
+        long storeErrors = 0;
+        long missed = 0;
+        long completed = 0;     // successful requests that finished inside [measureStart, end]
+
+        Worker(Function<String, String> predictor, DatabaseManager repository, int movieId,
+               ReviewSynthesizer synthesizer, long start, long measureStart, long end,
+               long hardStop, long intervalNanos, AtomicLong nextRequest) {
+            this.predictor = predictor;
+            this.repository = repository;
+            this.movieId = movieId;
+            this.synthesizer = synthesizer;
+            this.start = start;
+            this.measureStart = measureStart;
+            this.end = end;
+            this.hardStop = hardStop;
+            this.intervalNanos = intervalNanos;
+            this.nextRequest = nextRequest;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                // Build the review up front so generating it is not part of the measured latency
+                String text = synthesizer.next();
+                long intended;
+                if (intervalNanos > 0) {
+                    // Open loop: claim the next slot in the global arrival schedule
+                    intended = start + nextRequest.getAndIncrement() * intervalNanos;
+                    if (intended >= end) {
+                        return;
+                    }
+                    if (System.nanoTime() >= hardStop) {
+                        // The backlog did not drain within the grace period, give up on it
+                        missed++;
+                        if (intended >= measureStart) {
+                            missedLatency.record(hardStop - intended);
+                        }
+                        return;
+                    }
+                    sleepUntil(intended);
+                } else {
+                    intended = System.nanoTime();
+                    if (intended >= end) {
+                        return;
+                    }
+                }
+                execute(intended, text);
+            }
+        }
+
+        private void execute(long intended, String text) {
+            long predictStart = System.nanoTime();
+            String sentiment = predictor.apply(text);
+            long predictEnd = System.nanoTime();
+
+            boolean predicted = !"Error".equals(sentiment);
+            boolean stored = false;
+            long storeEnd = predictEnd;
+            if (predicted && repository != null) {
+                stored = repository.insertReview(new MovieReview(movieId, text, sentiment));
+                storeEnd = System.nanoTime();
+            }
+
+            boolean succeeded = predicted && (repository == null || stored);
+            if (succeeded && storeEnd >= measureStart && storeEnd <= end) {
+                completed++;
+            }
+
+            if (intended < measureStart) {
+                return;
+            }
+            if (!predicted) {
+                predictErrors++;
+                return;
+            }
+            predict.record(predictEnd - predictStart);
+            if (repository != null) {
+                if (!stored) {
+                    storeErrors++;
+                    return;
+                }
+                store.record(storeEnd - predictEnd);
+            }
+            // Only fully successful requests count towards end-to-end latency
+            endToEnd.record(storeEnd - intended);
+        }
+
+        private static void sleepUntil(long deadline) {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+}
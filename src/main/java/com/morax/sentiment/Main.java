@@ -4,13 +4,21 @@ public class Main {
 public static void main(String[] args) {
 
     System.out.println("🎬 Welcome to Movie Sentiment Analyzer!");
-    DatabaseManager dbManager = new DatabaseManager();
+    ReviewRepository repository;
+    try {
+        repository = RepositoryFactory.create();
+    } catch (IllegalArgumentException e) {
+        // Usually a missing database/db.properties (it is read from the working directory) or a typo in it
+        System.out.println("⚠️ Database configuration error: " + e.getMessage());
+        System.out.println("⚠️ Run the app from the project root, or fix database/db.properties.");
+        return;
+    }
 
     String modelPath = "ml_model/sentiment_model.onnx";
     String tokenizerPath = "ml_model/sentiment_transformer_tokenizer";
 
     PredictionService predictor = new PredictionService(modelPath, tokenizerPath);
-    UserInterface ui = new UserInterface(predictor, dbManager);
+    UserInterface ui = new UserInterface(predictor, repository);
     ui.start();
 } 
 
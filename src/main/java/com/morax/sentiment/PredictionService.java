@@ -13,6 +13,9 @@ import java.util.Map;
 
 public class PredictionService {
 
+// Inputs longer than this many tokens (including [CLS] and [SEP]) are truncated
+public static final int MAX_TOKENS = 128;
+
 private final OrtEnvironment env;
 private final OrtSession session;
 private final HuggingFaceTokenizer tokenizer;
@@ -23,7 +26,7 @@ public PredictionService(String modelPath, String tokenizerPath) {
         this.session = env.createSession(modelPath, new OrtSession.SessionOptions());
         
         Map<String, String> options = new HashMap<>();
-        options.put("maxLength", "128");
+        options.put("maxLength", String.valueOf(MAX_TOKENS));
         options.put("padding", "true");
         options.put("truncation", "true");
         this.tokenizer = HuggingFaceTokenizer.newInstance(Paths.get(tokenizerPath), options);
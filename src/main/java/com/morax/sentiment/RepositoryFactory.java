@@ -0,0 +1,84 @@
+package com.morax.sentiment;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Creates the ReviewRepository selected by the configuration.
+ * Settings are read from database/db.properties and can be overridden
+ * with system properties (e.g. -Ddb.backend=embedded).
+ */
+public class RepositoryFactory {
+
+    private static final String CONFIG_FILE = "database/db.properties";
+
+    /**
+     * Creates the repository configured in database/db.properties.
+     */
+    public static ReviewRepository create() {
+        return create(loadConfig());
+    }
+
+    /**
+     * Creates a repository for the given settings.
+     * Falls back to MySQL if db.backend is not set; MySQL needs db.url.
+     */
+    public static ReviewRepository create(Properties config) {
+        String backend = config.getProperty("db.backend", "mysql").trim().toLowerCase(Locale.ROOT);
+        return switch (backend) {
+            case "embedded" -> {
+                String location = config.getProperty("db.embedded.location", EmbeddedDatabaseManager.DEFAULT_LOCATION);
+                System.out.println("💾 Using embedded database (" + location + ")");
+                yield new EmbeddedDatabaseManager(location);
+            }
+            case "mysql" -> {
+                String url = config.getProperty("db.url");
+                if (url == null || url.isBlank()) {
+                    throw new IllegalArgumentException("db.url must be set for the mysql backend");
+                }
+                loadMySqlDriver();
+                yield new DatabaseManager(url, config.getProperty("db.user", ""), config.getProperty("db.password", ""));
+            }
+            default -> throw new IllegalArgumentException("Unknown db.backend: " + backend);
+        };
+    }
+
+    /**
+     * Loads the MySQL driver before the database is initialized, so a missing
+     * driver is reported before any connection error.
+     */
+    private static void loadMySqlDriver() {
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            System.out.println("⚠️ MySQL Driver not found! Make sure the mysql-connector-j JAR is in your pom.xml.");
+        }
+    }
+
+    /**
+     * Reads the config file (if present) and applies system property overrides.
+     */
+    private static Properties loadConfig() {
+        Properties config = new Properties();
+        Path path = Paths.get(CONFIG_FILE);
+        if (Files.exists(path)) {
+            try (Reader reader = new FileReader(path.toFile())) {
+                config.load(reader);
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not read " + CONFIG_FILE + ": " + e.getMessage());
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("db.")) {
+                config.setProperty(key, System.getProperty(key));
+            }
+        }
+        return config;
+    }
+}
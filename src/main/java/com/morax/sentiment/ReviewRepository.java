@@ -0,0 +1,46 @@
+package com.morax.sentiment;
+
+import java.util.List;
+
+/**
+ * Storage abstraction for Movies and their Reviews.
+ * Implemented by DatabaseManager (any JDBC database, e.g. MySQL) and its
+ * EmbeddedDatabaseManager subclass (in-process H2);
+ * use RepositoryFactory to get the backend selected in the configuration.
+ */
+public interface ReviewRepository {
+
+    /**
+     * Creates a new movie.
+     * @param title The title of the new movie.
+     * @return The newly created Movie object (with its new ID), or null if it failed.
+     */
+    Movie createMovie(String title);
+
+    /**
+     * @return A list of all stored movies.
+     */
+    List<Movie> getAllMovies();
+
+    /**
+     * Stores a new review for the movie it references.
+     * @return true if the review was saved.
+     */
+    boolean insertReview(MovieReview review);
+
+    /**
+     * @param movieId The ID of the movie to get reviews for.
+     * @return A list of MovieReview objects.
+     */
+    List<MovieReview> getAllReviews(int movieId);
+
+    /**
+     * Updates an existing review by its unique ID.
+     */
+    void updateReview(int id, String newText, String newSentiment);
+
+    /**
+     * Deletes an existing review by its unique ID.
+     */
+    void deleteReview(int id);
+}
@@ -0,0 +1,116 @@
+package com.morax.sentiment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic movie reviews for load testing.
+ * Words are drawn from the bundled tokenizer vocabulary, so no external
+ * review data is needed. Not thread-safe: use one instance per worker.
+ */
+public class ReviewSynthesizer {
+
+    /**
+     * How the number of words per review is distributed.
+     */
+    public enum LengthDistribution {
+        FIXED,      // always meanWords
+        UNIFORM,    // evenly spread between minWords and maxWords
+        LOGNORMAL   // long-tailed around meanWords, like real IMDB reviews
+    }
+
+    // Size of the ring of recent reviews that duplicates are picked from
+    private static final int DUPLICATE_POOL_SIZE = 1024;
+    private static final double LOGNORMAL_SIGMA = 0.6;
+
+    private final List<String> vocab;
+    private final LengthDistribution distribution;
+    private final int minWords;
+    private final int maxWords;
+    private final int meanWords;
+    private final double duplicateRatio;
+    private final Random random;
+
+    private final String[] recent = new String[DUPLICATE_POOL_SIZE];
+    private int recentCount = 0;
+    private int recentNext = 0;
+
+    public ReviewSynthesizer(List<String> vocab, LengthDistribution distribution,
+                             int minWords, int maxWords, int meanWords,
+                             double duplicateRatio, long seed) {
+        if (vocab.isEmpty()) {
+            throw new IllegalArgumentException("Vocabulary is empty");
+        }
+        if (minWords < 1 || maxWords < minWords) {
+            throw new IllegalArgumentException("Invalid word range: " + minWords + ".." + maxWords);
+        }
+        if (duplicateRatio < 0.0 || duplicateRatio > 1.0) {
+            throw new IllegalArgumentException("Duplicate ratio must be between 0 and 1");
+        }
+        this.vocab = vocab;
+        this.distribution = distribution;
+        this.minWords = minWords;
+        this.maxWords = maxWords;
+        this.meanWords = Math.max(minWords, Math.min(maxWords, meanWords));
+        this.duplicateRatio = duplicateRatio;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Reads the plain words out of a WordPiece vocab.txt, skipping special
+     * tokens ([PAD], [unused0], ...), subword pieces (##ing) and punctuation.
+     */
+    public static List<String> loadVocab(String vocabPath) throws IOException {
+        List<String> words = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(vocabPath), StandardCharsets.UTF_8)) {
+            String token = line.trim();
+            if (token.length() >= 3 && token.matches("[a-z]+")) {
+                words.add(token);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the next review. With probability duplicateRatio this is an
+     * exact repeat of a recently generated review.
+     */
+    public String next() {
+        if (recentCount > 0 && random.nextDouble() < duplicateRatio) {
+            return recent[random.nextInt(recentCount)];
+        }
+
+        int words = nextLength();
+        StringBuilder sb = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(vocab.get(random.nextInt(vocab.size())));
+        }
+        String review = sb.toString();
+
+        recent[recentNext] = review;
+        recentNext = (recentNext + 1) % DUPLICATE_POOL_SIZE;
+        recentCount = Math.min(recentCount + 1, DUPLICATE_POOL_SIZE);
+        return review;
+    }
+
+    private int nextLength() {
+        return switch (distribution) {
+            case FIXED -> meanWords;
+            case UNIFORM -> minWords + random.nextInt(maxWords - minWords + 1);
+            case LOGNORMAL -> {
+                // Pick mu so that the mean of the distribution is meanWords
+                double mu = Math.log(meanWords) - LOGNORMAL_SIGMA * LOGNORMAL_SIGMA / 2;
+                long length = Math.round(Math.exp(mu + LOGNORMAL_SIGMA * random.nextGaussian()));
+                yield (int) Math.max(minWords, Math.min(maxWords, length));
+            }
+        };
+    }
+}
@@ -11,12 +11,12 @@ class InvalidInputException extends Exception {
 
 public class UserInterface {
     private final PredictionService predictor;
-    private final DatabaseManager dbManager;
+    private final ReviewRepository repository;
     private final Scanner scanner; // Scanner is now a class member to be used by all methods
 
-    public UserInterface(PredictionService predictor, DatabaseManager dbManager) {
+    public UserInterface(PredictionService predictor, ReviewRepository repository) {
         this.predictor = predictor;
-        this.dbManager = dbManager;
+        this.repository = repository;
         this.scanner = new Scanner(System.in);
     }
 
@@ -56,7 +56,7 @@ public class UserInterface {
      */
     private void selectMovieMenu() throws InvalidInputException {
         System.out.println("\n--- Select a Movie ---");
-        List<Movie> movies = dbManager.getAllMovies();
+        List<Movie> movies = repository.getAllMovies();
         if (movies.isEmpty()) {
             System.out.println("No movies found. Please create a new movie first.");
             return;
@@ -102,7 +102,7 @@ public class UserInterface {
             return;
         }
 
-        Movie newMovie = dbManager.createMovie(title);
+        Movie newMovie = repository.createMovie(title);
         if (newMovie != null) {
             System.out.println("Successfully created: " + newMovie);
             // After creating, go directly to the review menu for this new movie
@@ -160,7 +160,7 @@ public class UserInterface {
         MovieReview review = new MovieReview(movieId, text, sentiment);
         
         // Save it to the database
-        dbManager.insertReview(review);
+        repository.insertReview(review);
         System.out.println("✅ Prediction: " + sentiment);
     }
 
@@ -169,7 +169,7 @@ public class UserInterface {
      * @param movieId The movie to get reviews for.
      */
     private void viewReviews(int movieId) {
-        List<MovieReview> reviews = dbManager.getAllReviews(movieId);
+        List<MovieReview> reviews = repository.getAllReviews(movieId);
         if (reviews.isEmpty()) {
             System.out.println("No reviews found for this movie.");
         } else {
@@ -199,7 +199,7 @@ public class UserInterface {
 
         // Re-analyze the sentiment for the new text
         String sentiment = predictor.predictSentiment(text);
-        dbManager.updateReview(id, text, sentiment);
+        repository.updateReview(id, text, sentiment);
     }
 
     /**
@@ -213,6 +213,6 @@ public class UserInterface {
         } catch (NumberFormatException e) {
             throw new InvalidInputException("Invalid ID. Please enter a number.");
         }
-        dbManager.deleteReview(id);
+        repository.deleteReview(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.morax.sentiment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the DatabaseManager CRUD operations against the embedded H2 backend,
+ * so no MySQL server is needed.
+ */
+class DatabaseManagerTest {
+
+    private DatabaseManager repository;
+
+    @BeforeEach
+    void setUp() {
+        // A fresh in-memory database per test, bootstrapped from schema.sql and data.sql
+        repository = new EmbeddedDatabaseManager("mem:test-" + UUID.randomUUID());
+        repository.setVerbose(false);
+    }
+
+    @Test
+    void bootstrapLoadsSeedData() {
+        List<Movie> movies = repository.getAllMovies();
+        assertEquals(1, movies.size());
+        assertEquals("Inception", movies.get(0).getTitle());
+
+        List<MovieReview> reviews = repository.getAllReviews(movies.get(0).getId());
+        assertEquals(2, reviews.size());
+        assertEquals("Positive", reviews.get(0).getSentiment());
+        assertEquals("Negative", reviews.get(1).getSentiment());
+    }
+
+    @Test
+    void createMovieAssignsNewId() {
+        Movie movie = repository.createMovie("Arrival");
+        assertNotNull(movie);
+        assertEquals(2, movie.getId());
+        assertEquals("Arrival", movie.getTitle());
+        assertEquals(2, repository.getAllMovies().size());
+    }
+
+    @Test
+    void createMovieRejectsDuplicateTitle() {
+        assertNull(repository.createMovie("Inception"));
+        assertEquals(1, repository.getAllMovies().size());
+    }
+
+    @Test
+    void insertedReviewIsReadBack() {
+        Movie movie = repository.createMovie("Arrival");
+        assertTrue(repository.insertReview(new MovieReview(movie.getId(), "Quiet and moving.", "Positive")));
+
+        List<MovieReview> reviews = repository.getAllReviews(movie.getId());
+        assertEquals(1, reviews.size());
+        assertEquals(movie.getId(), reviews.get(0).getMovieId());
+        assertEquals("Quiet and moving.", reviews.get(0).getText());
+        assertEquals("Positive", reviews.get(0).getSentiment());
+    }
+
+    @Test
+    void insertReviewForUnknownMovieFails() {
+        assertFalse(repository.insertReview(new MovieReview(999, "No such movie.", "Negative")));
+        assertTrue(repository.getAllReviews(999).isEmpty());
+    }
+
+    @Test
+    void updateReviewChangesTextAndSentiment() {
+        MovieReview review = repository.getAllReviews(1).get(1);
+        repository.updateReview(review.getId(), "Actually it grew on me.", "Positive");
+
+        MovieReview updated = repository.getAllReviews(1).get(1);
+        assertEquals(review.getId(), updated.getId());
+        assertEquals("Actually it grew on me.", updated.getText());
+        assertEquals("Positive", updated.getSentiment());
+    }
+
+    @Test
+    void deleteReviewRemovesOnlyThatReview() {
+        List<MovieReview> before = repository.getAllReviews(1);
+        repository.deleteReview(before.get(0).getId());
+
+        List<MovieReview> after = repository.getAllReviews(1);
+        assertEquals(1, after.size());
+        assertEquals(before.get(1).getId(), after.get(0).getId());
+    }
+
+    @Test
+    void fileDatabaseAcceptsRelativePathAndIsNotSeededTwice() throws IOException {
+        Path dir = Paths.get("target", "test-db", UUID.randomUUID().toString());
+        try {
+            String location = dir.resolve("movies").toString();
+            DatabaseManager first = new EmbeddedDatabaseManager(location);
+            first.setVerbose(false);
+            assertNotNull(first.createMovie("Arrival"));
+
+            DatabaseManager second = new EmbeddedDatabaseManager(location);
+            assertEquals(2, second.getAllMovies().size());
+            assertTrue(Files.exists(dir.resolve("movies.mv.db")));
+        } finally {
+            if (Files.exists(dir)) {
+                try (Stream<Path> files = Files.walk(dir)) {
+                    files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.morax.sentiment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void emptyRecorderReturnsZero() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        assertEquals(0, recorder.getCount());
+        assertEquals(0, recorder.percentile(50));
+        assertEquals(0, recorder.percentile(100));
+        assertEquals(0, recorder.max());
+        assertEquals(0.0, recorder.mean());
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long value : new long[] {40, 10, 30, 20}) {
+            recorder.record(value);
+        }
+        assertEquals(10, recorder.percentile(0));
+        assertEquals(10, recorder.percentile(25));
+        assertEquals(20, recorder.percentile(50));
+        assertEquals(30, recorder.percentile(75));
+        assertEquals(40, recorder.percentile(76));
+        assertEquals(40, recorder.percentile(100));
+        assertEquals(40, recorder.max());
+        assertEquals(25.0, recorder.mean());
+    }
+
+    @Test
+    void percentilesOverManyShuffledSamples() {
+        List<Long> values = new ArrayList<>();
+        for (long i = 1; i <= 2000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(1));
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long value : values) {
+            recorder.record(value);
+        }
+        assertEquals(2000, recorder.getCount());
+        assertEquals(1000, recorder.percentile(50));
+        assertEquals(1980, recorder.percentile(99));
+        assertEquals(1998, recorder.percentile(99.9));
+        assertEquals(2000, recorder.max());
+    }
+
+    @Test
+    void mergeCombinesSamples() {
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        for (long i = 1; i <= 50; i++) {
+            first.record(i * 2);        // even values
+            second.record(i * 2 - 1);   // odd values
+        }
+        // Query before merging so the merge has to re-sort
+        assertEquals(100, first.max());
+
+        LatencyRecorder merged = new LatencyRecorder();
+        merged.merge(first);
+        merged.merge(second);
+        assertEquals(100, merged.getCount());
+        assertEquals(1, merged.percentile(0));
+        assertEquals(50, merged.percentile(50));
+        assertEquals(99, merged.percentile(99));
+        assertEquals(100, merged.percentile(100));
+
+        merged.record(1000);
+        assertEquals(1000, merged.max());
+        assertEquals(101, merged.getCount());
+    }
+
+    @Test
+    void mergeEmptyRecorderChangesNothing() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(5);
+        recorder.merge(new LatencyRecorder());
+        assertEquals(1, recorder.getCount());
+        assertEquals(5, recorder.percentile(50));
+    }
+}
@@ -0,0 +1,114 @@
+package com.morax.sentiment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadGeneratorTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // Stands in for PredictionService: a fixed 20 ms per review
+    private static final Function<String, String> SLOW_PREDICTOR = text -> {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "Positive";
+    };
+
+    /**
+     * Runs open-loop workers with a 200 ms warmup, a 1 s schedule and a 200 ms grace period.
+     */
+    private static List<LoadGenerator.Worker> runOpenLoop(int threads, double rate) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureStart = start + 200 * MILLIS;
+        long end = start + 1000 * MILLIS;
+        long hardStop = end + 200 * MILLIS;
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        AtomicLong nextRequest = new AtomicLong();
+
+        List<LoadGenerator.Worker> workers = new ArrayList<>();
+        List<Thread> workerThreads = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            ReviewSynthesizer synthesizer = new ReviewSynthesizer(List.of("good", "bad", "movie"),
+                    ReviewSynthesizer.LengthDistribution.FIXED, 5, 5, 5, 0.0, i);
+            LoadGenerator.Worker worker = new LoadGenerator.Worker(SLOW_PREDICTOR, null, 0, synthesizer,
+                    start, measureStart, end, hardStop, intervalNanos, nextRequest);
+            Thread thread = new Thread(worker);
+            workers.add(worker);
+            workerThreads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : workerThreads) {
+            thread.join();
+        }
+        return workers;
+    }
+
+    private static double throughput(List<LoadGenerator.Worker> workers) {
+        long completed = 0;
+        for (LoadGenerator.Worker worker : workers) {
+            completed += worker.completed;
+        }
+        return LoadGenerator.throughput(completed, 200 * MILLIS, 1000 * MILLIS);
+    }
+
+    @Test
+    void saturatedThroughputMatchesCapacity() throws InterruptedException {
+        // 2 threads x 20 ms sustain about 100 reviews/sec, far below the 300/sec target
+        double throughput = throughput(runOpenLoop(2, 300));
+        assertTrue(throughput > 70 && throughput <= 105, "unexpected throughput: " + throughput);
+    }
+
+    @Test
+    void unsaturatedThroughputMatchesTargetRate() throws InterruptedException {
+        double throughput = throughput(runOpenLoop(2, 40));
+        assertTrue(throughput > 30 && throughput < 50, "unexpected throughput: " + throughput);
+    }
+
+    @Test
+    void missedSlotsAreRecordedAsLowerBoundLatency() throws InterruptedException {
+        List<LoadGenerator.Worker> workers = runOpenLoop(2, 300);
+        long missed = 0;
+        LatencyRecorder missedLatency = new LatencyRecorder();
+        for (LoadGenerator.Worker worker : workers) {
+            missed += worker.missed;
+            missedLatency.merge(worker.missedLatency);
+        }
+        assertTrue(missed > 0, "expected slots dropped at the hard stop");
+        // Slots are scheduled before the 1 s end and dropped at the 1.2 s hard stop
+        assertTrue(missedLatency.percentile(0) >= 200 * MILLIS);
+    }
+
+    @Test
+    void unclaimedSlotsAfterWarmupAreRecorded() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        // Slots 5..19 are scheduled at 50..190; only 100..190 are after warmup
+        long missed = LoadGenerator.recordUnclaimed(recorder, 0, 100, 1000, 10, 5, 20);
+        assertEquals(15, missed);
+        assertEquals(10, recorder.getCount());
+        assertEquals(810, recorder.percentile(0));
+        assertEquals(900, recorder.max());
+    }
+
+    @Test
+    void noUnclaimedSlotsWhenAllWereClaimed() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        assertEquals(0, LoadGenerator.recordUnclaimed(recorder, 0, 100, 1000, 10, 25, 20));
+        assertEquals(0, recorder.getCount());
+    }
+
+    @Test
+    void throughputOfEmptyWindowIsZero() {
+        assertEquals(0.0, LoadGenerator.throughput(10, 5, 5));
+    }
+}
@@ -0,0 +1,66 @@
+package com.morax.sentiment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryFactoryTest {
+
+    private static Properties config(String... keysAndValues) {
+        Properties config = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            config.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return config;
+    }
+
+    @Test
+    void embeddedBackendIsSelected() {
+        ReviewRepository repository = RepositoryFactory.create(config(
+                "db.backend", "embedded",
+                "db.embedded.location", "mem:factory-" + UUID.randomUUID()));
+        assertTrue(repository instanceof EmbeddedDatabaseManager);
+        assertEquals(1, repository.getAllMovies().size());
+    }
+
+    @Test
+    void backendNameIgnoresCaseAndWhitespace() {
+        ReviewRepository repository = RepositoryFactory.create(config(
+                "db.backend", " Embedded ",
+                "db.embedded.location", "mem:factory-" + UUID.randomUUID()));
+        assertTrue(repository instanceof EmbeddedDatabaseManager);
+    }
+
+    @Test
+    void mysqlBackendUsesConfiguredUrl() {
+        // Any JDBC URL works for the mysql backend; H2 in MySQL mode stands in for the server
+        ReviewRepository repository = RepositoryFactory.create(config(
+                "db.backend", "mysql",
+                "db.url", "jdbc:h2:mem:factory-" + UUID.randomUUID()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "db.user", "sa",
+                "db.password", ""));
+        assertFalse(repository instanceof EmbeddedDatabaseManager);
+        assertEquals("Inception", repository.getAllMovies().get(0).getTitle());
+    }
+
+    @Test
+    void mysqlBackendRequiresUrl() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RepositoryFactory.create(config("db.backend", "mysql")));
+        assertThrows(IllegalArgumentException.class,
+                () -> RepositoryFactory.create(config()));
+    }
+
+    @Test
+    void unknownBackendIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RepositoryFactory.create(config("db.backend", "postgres")));
+    }
+}
@@ -0,0 +1,143 @@
+package com.morax.sentiment;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewSynthesizerTest {
+
+    private static final int SAMPLES = 10_000;
+
+    // Large enough that two independently generated reviews never collide by chance
+    private static List<String> vocab() {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            words.add("word" + i);
+        }
+        return words;
+    }
+
+    private static int wordCount(String review) {
+        return review.split(" ").length;
+    }
+
+    @Test
+    void fixedLengthAlwaysUsesMean() {
+        ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.FIXED, 5, 50, 20, 0.0, 1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(20, wordCount(synthesizer.next()));
+        }
+    }
+
+    @Test
+    void fixedLengthClampsMeanToBounds() {
+        ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.FIXED, 5, 50, 500, 0.0, 1);
+        assertEquals(50, wordCount(synthesizer.next()));
+    }
+
+    @Test
+    void uniformLengthCoversWholeRange() {
+        ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.UNIFORM, 3, 8, 5, 0.0, 1);
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            int words = wordCount(synthesizer.next());
+            assertTrue(words >= 3 && words <= 8, "length out of bounds: " + words);
+            seen.add(words);
+        }
+        assertEquals(Set.of(3, 4, 5, 6, 7, 8), seen);
+    }
+
+    @Test
+    void lognormalLengthStaysInBoundsAndKeepsMean() {
+        ReviewSynthesizer bounded = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.LOGNORMAL, 10, 40, 30, 0.0, 1);
+        for (int i = 0; i < SAMPLES; i++) {
+            int words = wordCount(bounded.next());
+            assertTrue(words >= 10 && words <= 40, "length out of bounds: " + words);
+        }
+
+        ReviewSynthesizer wide = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.LOGNORMAL, 1, 10_000, 50, 0.0, 1);
+        long total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            total += wordCount(wide.next());
+        }
+        double mean = (double) total / SAMPLES;
+        assertTrue(mean > 45 && mean < 55, "unexpected mean length: " + mean);
+    }
+
+    @Test
+    void duplicateRatioZeroNeverRepeats() {
+        ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.FIXED, 20, 20, 20, 0.0, 1);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            assertTrue(seen.add(synthesizer.next()));
+        }
+    }
+
+    @Test
+    void duplicateRatioOneRepeatsFirstReview() {
+        ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.FIXED, 20, 20, 20, 1.0, 1);
+        String first = synthesizer.next();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first, synthesizer.next());
+        }
+    }
+
+    @Test
+    void duplicateRatioMatchesConfiguredFraction() {
+        ReviewSynthesizer synthesizer = new ReviewSynthesizer(vocab(),
+                ReviewSynthesizer.LengthDistribution.FIXED, 20, 20, 20, 0.3, 1);
+        Set<String> seen = new HashSet<>();
+        int duplicates = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            if (!seen.add(synthesizer.next())) {
+                duplicates++;
+            }
+        }
+        double ratio = (double) duplicates / SAMPLES;
+        assertTrue(ratio > 0.27 && ratio < 0.33, "unexpected duplicate ratio: " + ratio);
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        List<String> vocab = vocab();
+        ReviewSynthesizer.LengthDistribution fixed = ReviewSynthesizer.LengthDistribution.FIXED;
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReviewSynthesizer(new ArrayList<>(), fixed, 1, 5, 3, 0.0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReviewSynthesizer(vocab, fixed, 0, 5, 3, 0.0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReviewSynthesizer(vocab, fixed, 6, 5, 5, 0.0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReviewSynthesizer(vocab, fixed, 1, 5, 3, 1.5, 1));
+    }
+
+    @Test
+    void loadVocabKeepsOnlyPlainWords() throws IOException {
+        Path file = Files.createTempFile("vocab", ".txt");
+        try {
+            Files.write(file, List.of("[PAD]", "[unused0]", "!", "a", "##ing", "the", "movie", "naïve", "2020"),
+                    StandardCharsets.UTF_8);
+            assertEquals(List.of("the", "movie"), ReviewSynthesizer.loadVocab(file.toString()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}